@@ -0,0 +1,23 @@
+package benchmark;
+
+import models.CommandType;
+
+// one measured point of a throughput-versus-latency curve, latencies in milliseconds
+public record BenchmarkPoint(CommandType command,
+                             int stations,
+                             int concurrency,
+                             long requests,
+                             long errors,
+                             double throughputPerSecond,
+                             double meanMillis,
+                             double p50Millis,
+                             double p90Millis,
+                             double p99Millis,
+                             double maxMillis) {
+
+    // Kleinrock's power: grows with throughput until queueing makes latency grow faster, the maximum marks the knee
+    public double power() {
+        return meanMillis == 0 ? 0 : throughputPerSecond / meanMillis;
+    }
+
+}
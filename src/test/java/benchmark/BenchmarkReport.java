@@ -0,0 +1,99 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import models.CommandType;
+
+/**
+ * Collects the points of a sweep and writes them as <version>-<timestamp>.json and .csv, so that runs of different versions
+ * can be diffed or plotted side by side.
+ * Both files carry the same columns in the same order; the JSON also holds the run settings and the knee of every curve.
+ */
+public class BenchmarkReport {
+
+    // bumped whenever columns are added, renamed or change meaning
+    private static final int FORMAT_VERSION = 1;
+    private static final String CSV_HEADER = "command,stations,concurrency,requests,errors,throughputPerSecond,"
+            + "meanMillis,p50Millis,p90Millis,p99Millis,maxMillis,knee";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final String version;
+    private final String target;
+    private final Map<String, Object> settings;
+    private final Instant startedAt = Instant.now();
+    private final List<BenchmarkPoint> points = new ArrayList<>();
+
+    public BenchmarkReport(String version, String target, Map<String, Object> settings) {
+        this.version = version;
+        this.target = target;
+        this.settings = settings;
+    }
+
+    public synchronized void add(BenchmarkPoint point) {
+        points.add(point);
+    }
+
+    // one curve per command and station count, its knee being the point of highest power (throughput over mean latency);
+    // a curve on which no request succeeded has no knee
+    public synchronized List<BenchmarkPoint> knees() {
+        return points.stream()
+                .filter(point -> point.requests() > 0)
+                .collect(Collectors.groupingBy(point -> point.command() + "/" + point.stations(),
+                        Collectors.maxBy(Comparator.comparingDouble(BenchmarkPoint::power))))
+                .values().stream()
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(BenchmarkPoint::command).thenComparingInt(BenchmarkPoint::stations))
+                .toList();
+    }
+
+    public synchronized String toCsv(CommandType command) {
+        List<BenchmarkPoint> knees = knees();
+        return points.stream()
+                .filter(point -> command == null || point.command() == command)
+                .map(point -> toCsvRow(point, knees.contains(point)))
+                .collect(Collectors.joining("\n", CSV_HEADER + "\n", "\n"));
+    }
+
+    public synchronized List<Path> write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String name = version + "-" + FILE_TIMESTAMP.format(startedAt);
+        Path json = directory.resolve(name + ".json");
+        Path csv = directory.resolve(name + ".csv");
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(json.toFile(), new Result(FORMAT_VERSION, version, target, startedAt.toString(), settings, points, knees()));
+        Files.writeString(csv, toCsv(null));
+        return List.of(json, csv);
+    }
+
+    private static String toCsvRow(BenchmarkPoint point, boolean knee) {
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%b",
+                point.command().value(), point.stations(), point.concurrency(), point.requests(), point.errors(),
+                point.throughputPerSecond(), point.meanMillis(), point.p50Millis(), point.p90Millis(), point.p99Millis(),
+                point.maxMillis(), knee);
+    }
+
+    private record Result(int formatVersion,
+                          String version,
+                          String target,
+                          String startedAt,
+                          Map<String, Object> settings,
+                          List<BenchmarkPoint> points,
+                          List<BenchmarkPoint> knees) {}
+
+}
@@ -0,0 +1,55 @@
+package benchmark;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+
+public class BenchmarkReportTests {
+
+    @Feature("BENCHMARK")
+    @DisplayName("Should Mark The Point Of Highest Power As The Knee Of Every Curve That Has Successful Requests.")
+    @Description("1. Add three points to the getVersion curve of 1 station, with powers of 10, about 16.4 and 10, a setValues point of 2 stations, and a getVersion point of 2 stations on which no request succeeded.\n 2. Expect knees for the getVersion curve of 1 station, at its second point, and for the setValues curve, sorted by command and station count, and none for the curve without successful requests.\n 3. Expect the CSV of getVersion to flag only its knee.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldFindKneeOfEveryCurve() {
+        BenchmarkPoint linear = point(CommandType.GET_VERSION, 1, 1, 100, 10);
+        BenchmarkPoint knee = point(CommandType.GET_VERSION, 1, 2, 180, 11);
+        BenchmarkPoint queued = point(CommandType.GET_VERSION, 1, 4, 200, 20);
+        BenchmarkPoint saturated = new BenchmarkPoint(CommandType.GET_VERSION, 2, 8, 0, 12, 0, 0, 0, 0, 0, 0);
+        BenchmarkPoint set = point(CommandType.SET_VALUES, 2, 1, 50, 20);
+
+        BenchmarkReport report = new BenchmarkReport("1.0-test", "simulator", Map.of());
+        // added out of order, as the knees are expected sorted regardless
+        for (BenchmarkPoint point : List.of(set, queued, saturated, linear, knee)) {
+            report.add(point);
+        }
+
+        assertThat(report.knees(), equalTo(List.of(knee, set)));
+
+        List<String> rows = report.toCsv(CommandType.GET_VERSION).lines().toList();
+        assertThat(rows.size(), is(5));
+        assertThat(rows.stream().filter(row -> row.endsWith(",true")).toList(),
+                equalTo(List.of("getVersion,1,2,180,0,180.0,11.000,11.000,11.000,11.000,11.000,true")));
+    }
+
+    // a point whose latencies are all the same, its power being throughput over that latency
+    private static BenchmarkPoint point(CommandType command, int stations, int concurrency, long requestsPerSecond, double millis) {
+        return new BenchmarkPoint(command, stations, concurrency, requestsPerSecond, 0, requestsPerSecond,
+                millis, millis, millis, millis, millis);
+    }
+
+}
@@ -0,0 +1,168 @@
+package benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import clients.StationAPIClient;
+import models.CommandType;
+import models.SetResult;
+import models.StationTestRequest;
+
+/**
+ * Measures a single point: a fixed number of closed-loop workers, each sending the next request as soon as the previous one completes,
+ * spread round-robin over the given stations.
+ * Requests are counted by when they complete: those completing within the measurement window make up the point,
+ * whichever window they started in, and those completing during the warmup before it are discarded.
+ * A request still in flight when the window ends, having been sent before it began, counts as an error (timed out),
+ * so a saturated target shows up as errors rather than as an empty point. The client's read timeout is the length of the window,
+ * which bounds how long the workers are waited for after it.
+ */
+public class ThroughputRunner {
+
+    private final StationAPIClient client;
+    private final Duration warmup;
+    private final Duration measurement;
+
+    public ThroughputRunner(String baseUri, Duration warmup, Duration measurement) {
+        this.client = StationAPIClient.withoutAllureAttachments(baseUri, measurement);
+        this.warmup = warmup;
+        this.measurement = measurement;
+    }
+
+    public BenchmarkPoint measure(CommandType command, List<Integer> stationIds, int concurrency) {
+        StationTestRequest request = new StationTestRequest().withCommand(command);
+        if (command == CommandType.SET_VALUES) {
+            request.withPayload(1);
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        // warmup also covers the time it takes to start the workers
+        long measurementStart = System.nanoTime() + warmup.toNanos();
+        long measurementEnd = measurementStart + measurement.toNanos();
+        try {
+            Future<?>[] results = new Future<?>[concurrency];
+            Worker[] runs = new Worker[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                // workers start at different stations, so each station gets an even share of the load
+                runs[i] = new Worker(command, request, stationIds, i, measurementStart, measurementEnd);
+                results[i] = workers.submit(runs[i]);
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            long errors = 0;
+            int count = 0;
+            for (Worker run : runs) {
+                errors += run.errors;
+                count += run.count;
+            }
+            long[] latencies = new long[count];
+            int offset = 0;
+            for (Worker run : runs) {
+                System.arraycopy(run.latencies, 0, latencies, offset, run.count);
+                offset += run.count;
+            }
+            return toPoint(command, stationIds.size(), concurrency, latencies, errors, measurement);
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark of " + command + " with concurrency " + concurrency + " failed", e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // latencies of the successful requests, in nanoseconds and in any order; they are sorted in place
+    static BenchmarkPoint toPoint(CommandType command, int stations, int concurrency, long[] latencies, long errors,
+                                  Duration measurement) {
+        Arrays.sort(latencies);
+        int count = latencies.length;
+        double seconds = measurement.toNanos() / 1e9;
+        return new BenchmarkPoint(command, stations, concurrency, count, errors,
+                count / seconds,
+                count == 0 ? 0 : toMillis(Arrays.stream(latencies).sum() / (double) count),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.90),
+                percentile(latencies, 0.99),
+                count == 0 ? 0 : toMillis(latencies[count - 1]));
+    }
+
+    // nearest-rank percentile
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return toMillis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1e6;
+    }
+
+    private class Worker implements Runnable {
+        private final CommandType command;
+        private final StationTestRequest request;
+        private final List<Integer> stationIds;
+        private final long measurementStart;
+        private final long measurementEnd;
+        private int next;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private Worker(CommandType command, StationTestRequest request, List<Integer> stationIds, int first,
+                       long measurementStart, long measurementEnd) {
+            this.command = command;
+            this.request = request;
+            this.stationIds = stationIds;
+            this.next = first;
+            this.measurementStart = measurementStart;
+            this.measurementEnd = measurementEnd;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            while (start < measurementEnd) {
+                int stationId = stationIds.get(next++ % stationIds.size());
+                boolean succeeded = send(stationId);
+                long end = System.nanoTime();
+                if (end > measurementStart && end <= measurementEnd) {
+                    if (succeeded) {
+                        record(end - start);
+                    } else {
+                        errors++;
+                    }
+                } else if (end > measurementEnd && start <= measurementStart) {
+                    errors++;
+                }
+                start = end;
+            }
+        }
+
+        private boolean send(int stationId) {
+            try {
+                return switch (command) {
+                    case GET_VERSION -> client.getStationVersionAndValidateResponse(stationId, request).result() != null;
+                    case GET_INTERVAL -> client.getStationIntervalAndValidateResponse(stationId, request).result() > 0;
+                    case SET_VALUES -> client.setStationValuesAndValidateResponse(stationId, request).result() == SetResult.OK;
+                };
+            } catch (Exception | AssertionError e) {
+                // a timeout, refused connection or unexpected response counts as an error instead of ending the run,
+                // RestAssured rethrows checked ones like ConnectException and SocketTimeoutException undeclared
+                return false;
+            }
+        }
+
+        private void record(long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+
+public class ThroughputRunnerTests {
+
+    private static final double TOLERANCE = 1e-9;
+
+    @Feature("BENCHMARK")
+    @DisplayName("Should Compute Throughput, Mean And Nearest-Rank Percentiles Of Synthetic Latencies.")
+    @Description("1. Build a point from latencies of 1 to 100 ms in random order and 3 errors, measured over 2 seconds.\n 2. Expect 100 requests and 3 errors, a throughput of 50 per second, a mean of 50.5 ms, p50 / p90 / p99 of 50 / 90 / 99 ms and a max of 100 ms.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldSummarizeLatencies() {
+        List<Long> shuffled = new ArrayList<>();
+        for (long millis = 1; millis <= 100; millis++) {
+            shuffled.add(millis * 1_000_000);
+        }
+        Collections.shuffle(shuffled, new Random(42));
+        long[] latencies = shuffled.stream().mapToLong(Long::longValue).toArray();
+
+        BenchmarkPoint point = ThroughputRunner.toPoint(CommandType.GET_VERSION, 2, 4, latencies, 3, Duration.ofSeconds(2));
+
+        assertThat(point.command(), is(CommandType.GET_VERSION));
+        assertThat(point.stations(), is(2));
+        assertThat(point.concurrency(), is(4));
+        assertThat(point.requests(), is(100L));
+        assertThat(point.errors(), is(3L));
+        assertThat(point.throughputPerSecond(), closeTo(50, TOLERANCE));
+        assertThat(point.meanMillis(), closeTo(50.5, TOLERANCE));
+        assertThat(point.p50Millis(), closeTo(50, TOLERANCE));
+        assertThat(point.p90Millis(), closeTo(90, TOLERANCE));
+        assertThat(point.p99Millis(), closeTo(99, TOLERANCE));
+        assertThat(point.maxMillis(), closeTo(100, TOLERANCE));
+    }
+
+    @Feature("BENCHMARK")
+    @DisplayName("Should Report Every Percentile As The Only Latency Of A Single Request.")
+    @Description("1. Build a point from a single latency of 7.5 ms, measured over 1 second.\n 2. Expect a throughput of 1 per second, and mean, p50, p90, p99 and max all to be 7.5 ms.")
+    @Severity(SeverityLevel.MINOR)
+    @Tag("auto")
+    @Test
+    public void shouldSummarizeSingleLatency() {
+        BenchmarkPoint point = ThroughputRunner.toPoint(CommandType.GET_INTERVAL, 1, 1, new long[] {7_500_000}, 0, Duration.ofSeconds(1));
+
+        assertThat(point.requests(), is(1L));
+        assertThat(point.throughputPerSecond(), closeTo(1, TOLERANCE));
+        for (double millis : new double[] {point.meanMillis(), point.p50Millis(), point.p90Millis(), point.p99Millis(), point.maxMillis()}) {
+            assertThat(millis, closeTo(7.5, TOLERANCE));
+        }
+    }
+
+    @Feature("BENCHMARK")
+    @DisplayName("Should Report Zero Throughput And Latencies When Only Errors Completed.")
+    @Description("1. Build a point without latencies and 5 errors, as a saturated target whose requests all time out.\n 2. Expect no requests and 5 errors, with throughput, mean, percentiles and max all 0, and a power of 0.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldSummarizePointWithoutSuccesses() {
+        BenchmarkPoint point = ThroughputRunner.toPoint(CommandType.SET_VALUES, 4, 8, new long[0], 5, Duration.ofSeconds(1));
+
+        assertThat(point.requests(), is(0L));
+        assertThat(point.errors(), is(5L));
+        for (double value : new double[] {point.throughputPerSecond(), point.meanMillis(), point.p50Millis(), point.p90Millis(),
+                point.p99Millis(), point.maxMillis(), point.power()}) {
+            assertThat(value, closeTo(0, TOLERANCE));
+        }
+    }
+
+}
@@ -3,16 +3,26 @@ package clients;
 import static configs.CustomAllureFilter.customAllureFilter;
 import static configs.OwnerConfig.CONFIG;
 import static io.restassured.RestAssured.given;
+import static logging.ExchangeLog.exchangeLog;
+import static logging.TestNames.currentTestName;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_OK;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import clients.StationReadCache.CacheStats;
+import configs.StartupReport;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import models.CommandType;
 import models.StationGetIntervalResponse;
 import models.StationGetVersionResponse;
 import models.StationSetValuesResponse;
@@ -20,45 +30,81 @@ import models.StationTestRequest;
 
 public class StationAPIClient {
 
+    static {
+        // tests reach this class before OwnerConfig, whose mark is then a no-op
+        StartupReport.mark("JVM and test engine started");
+    }
+
+    private static final ResponseSpecification SUCCESSFUL_RESPONSE_SPEC = new ResponseSpecBuilder()
+            .expectContentType(ContentType.JSON)
+            .expectStatusCode(SC_OK)
+            .build();
+
+    static {
+        // building the response spec is what loads RestAssured and the HTTP client
+        StartupReport.mark("RestAssured loaded");
+    }
+
     private final RequestSpecification requestSpec;
     private final ResponseSpecification successfulResponseSpec;
+    // disabled unless withReadCache() is called, so correctness tests always talk to the server
+    private StationReadCache readCache;
 
     public StationAPIClient() {
-        requestSpec = new RequestSpecBuilder()
-                .setBaseUri(CONFIG.getBaseUri())
-                .setBasePath(CONFIG.getBasePath())
-                .setContentType(ContentType.JSON)
-                .addFilter(customAllureFilter().withCustomTemplates())
-                .build();
+        this(DefaultSpecs.requestSpec);
+    }
 
-        successfulResponseSpec = new ResponseSpecBuilder()
-                .expectContentType(ContentType.JSON)
-                .expectStatusCode(SC_OK)
-                .build();
+    // allows pointing the client at something other than the configured server, e.g. a FaultInjectingProxy
+    public StationAPIClient(String baseUri) {
+        this(buildRequestSpec(baseUri, CONFIG.getReadTimeoutMillis()));
+    }
+
+    // lets timeout tests wait for a short read timeout instead of the configured one
+    public StationAPIClient(String baseUri, Duration readTimeout) {
+        this(buildRequestSpec(baseUri, (int) readTimeout.toMillis()));
+    }
+
+    // for load and benchmark runs: rendering an Allure attachment per request would dominate the measured latency
+    public static StationAPIClient withoutAllureAttachments(String baseUri, Duration readTimeout) {
+        return new StationAPIClient(baseRequestSpec(baseUri, (int) readTimeout.toMillis()).build());
+    }
+
+    private StationAPIClient(RequestSpecification requestSpec) {
+        this.requestSpec = requestSpec;
+        this.successfulResponseSpec = SUCCESSFUL_RESPONSE_SPEC;
+    }
+
+    // meant for scenario and load runs, where the same station is asked for the same version or interval many times
+    public StationAPIClient withReadCache(Duration ttl, int maxEntries) {
+        this.readCache = new StationReadCache(ttl, maxEntries);
+        return this;
+    }
+
+    public CacheStats readCacheStats() {
+        return readCache == null ? new CacheStats(0, 0, 0, 0) : readCache.stats();
     }
     
     public StationGetVersionResponse getStationVersionAndValidateResponse(int stationId, StationTestRequest request) {
-        return postRequestToStation(stationId, request)
-                .then()
-                .spec(successfulResponseSpec)
-                .log().ifError()
-                // response extraction such as this also acts as a schema validation
-                .extract().response().as(StationGetVersionResponse.class);
+        return cachedRead(stationId, CommandType.GET_VERSION, request, StationGetVersionResponse.class,
+                () -> postRequestToStation(stationId, request)
+                        .then()
+                        .spec(successfulResponseSpec)
+                        // response extraction such as this also acts as a schema validation
+                        .extract().response().as(StationGetVersionResponse.class));
     }
 
     public StationGetIntervalResponse getStationIntervalAndValidateResponse(int stationId, StationTestRequest request) {
-        return postRequestToStation(stationId, request)
-                .then()
-                .spec(successfulResponseSpec)
-                .log().ifError()
-                .extract().response().as(StationGetIntervalResponse.class);
+        return cachedRead(stationId, CommandType.GET_INTERVAL, request, StationGetIntervalResponse.class,
+                () -> postRequestToStation(stationId, request)
+                        .then()
+                        .spec(successfulResponseSpec)
+                        .extract().response().as(StationGetIntervalResponse.class));
     }
 
     public StationSetValuesResponse setStationValuesAndValidateResponse(int stationId, StationTestRequest request) {
         return postRequestToStation(stationId, request)
                 .then()
                 .spec(successfulResponseSpec)
-                .log().ifError()
                 .extract().response().as(StationSetValuesResponse.class);
     }
 
@@ -84,23 +130,71 @@ public class StationAPIClient {
     }
 
     public Response postModifiedRequestToStation(int stationId, Map<String, Object> request) {
-        return given()
-                .spec(requestSpec)
-                .pathParam("stationId", stationId)
-                .body(request)
-                .when()
-                .post()
-                .thenReturn();
+        return send(stationId, request, request.get("command"));
     }
 
     private Response postRequestToStation(int stationId, StationTestRequest request) {
-        return given()
+        Response response = send(stationId, request, request.command());
+        // typed requests are expected to succeed, so any error response is kept for troubleshooting
+        if (response.statusCode() >= SC_BAD_REQUEST) {
+            exchangeLog().record(currentTestName(), stationId, request.command(), request.payload(),
+                    response.statusCode(), response.time(), response.asString());
+        }
+        return response;
+    }
+
+    // command is either a CommandType or, in modified requests, whatever the map holds
+    private Response send(int stationId, Object body, Object command) {
+        RequestSpecification request = given()
                 .spec(requestSpec)
                 .pathParam("stationId", stationId)
-                .body(request)
+                .body(body);
+        // body() serializes right away, so on the first request this tells Jackson's setup apart from the round trip
+        StartupReport.mark("first request body serialized");
+        Response response = request
                 .when()
                 .post()
                 .thenReturn();
+        StartupReport.firstRequestCompleted();
+        // the single point of invalidation: the result isn't parsed here, so any setValues is assumed to have changed the interval
+        if (readCache != null && (command == CommandType.SET_VALUES || CommandType.SET_VALUES.value().equals(command))) {
+            readCache.invalidate(stationId, CommandType.GET_INTERVAL);
+        }
+        return response;
+    }
+
+    private static RequestSpecification buildRequestSpec(String baseUri, int readTimeoutMillis) {
+        RequestSpecBuilder builder = baseRequestSpec(baseUri, readTimeoutMillis);
+        StartupReport.mark("request spec configured");
+        return builder
+                .addFilter(customAllureFilter().withCustomTemplates())
+                .build();
+    }
+
+    private static RequestSpecBuilder baseRequestSpec(String baseUri, int readTimeoutMillis) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setBasePath(CONFIG.getBasePath())
+                .setContentType(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                        .setParam("http.connection.timeout", CONFIG.getConnectTimeoutMillis())
+                        .setParam("http.socket.timeout", readTimeoutMillis)));
+    }
+
+    private <T> T cachedRead(int stationId, CommandType command, StationTestRequest request, Class<T> type, Supplier<T> read) {
+        if (readCache == null || request.command() != command) {
+            return read.get();
+        }
+        return readCache.getOrLoad(stationId, command, type, read);
+    }
+
+    // built once per JVM rather than per client, as test classes create a new client for every test method
+    private static class DefaultSpecs {
+        private static final RequestSpecification requestSpec = buildRequestSpec(CONFIG.getBaseUri(), CONFIG.getReadTimeoutMillis());
+
+        static {
+            StartupReport.mark("request and response specs built");
+        }
     }
 
 }
@@ -0,0 +1,92 @@
+package clients;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import models.CommandType;
+
+/**
+ * Per-station cache of idempotent read responses (getVersion, getInterval) used by StationAPIClient.
+ * Entries expire after a TTL and the least recently used one is evicted once the size bound is reached.
+ * Responses are loaded outside the lock, so two threads missing the same key at once may both hit the server.
+ */
+public class StationReadCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // bumped on every invalidation, so that a load racing with a setValues doesn't cache a stale value
+    private long generation;
+
+    public StationReadCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        // access order turns the map into an LRU list
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public <T> T getOrLoad(int stationId, CommandType command, Class<T> type, Supplier<T> loader) {
+        Key key = new Key(stationId, command);
+        long loadGeneration;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+                hits.increment();
+                return type.cast(entry.value());
+            }
+            loadGeneration = generation;
+        }
+        misses.increment();
+        T value = loader.get();
+        synchronized (entries) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(value, System.nanoTime()));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(int stationId, CommandType command) {
+        synchronized (entries) {
+            entries.remove(new Key(stationId, command));
+            generation++;
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            generation++;
+        }
+    }
+
+    public CacheStats stats() {
+        synchronized (entries) {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Key(int stationId, CommandType command) {}
+
+    private record Entry(Object value, long loadedAtNanos) {}
+
+    public record CacheStats(long hits, long misses, long evictions, int size) {}
+
+}
@@ -0,0 +1,96 @@
+package clients;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import clients.StationReadCache.CacheStats;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+
+public class StationReadCacheTests {
+
+    private static final Duration LONG_TTL = Duration.ofMinutes(1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Feature("READ_CACHE")
+    @DisplayName("Should Reload An Entry Once Its TTL Has Passed.")
+    @Description("1. Create a cache with a TTL of 20 ms and read the interval of a station through it.\n 2. Wait 50 ms and read it again.\n 3. Expect the second read to load the value again, counting two misses and no hit.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldReloadExpiredEntry() throws InterruptedException {
+        StationReadCache cache = new StationReadCache(Duration.ofMillis(20), 16);
+
+        cache.getOrLoad(1, CommandType.GET_INTERVAL, Integer.class, loader(60));
+        Thread.sleep(50);
+        int interval = cache.getOrLoad(1, CommandType.GET_INTERVAL, Integer.class, loader(90));
+
+        assertThat(interval, is(90));
+        assertThat(loads.get(), is(2));
+        assertThat(cache.stats(), equalTo(new CacheStats(0, 2, 0, 1)));
+    }
+
+    @Feature("READ_CACHE")
+    @DisplayName("Should Evict The Least Recently Used Entry Once The Size Bound Is Reached.")
+    @Description("1. Create a cache of at most 2 entries and read the versions of stations 1 and 2 through it, then station 1 again.\n 2. Read the version of station 3, which takes a third entry.\n 3. Expect station 2, the least recently used, to be evicted and counted, and station 1 to still be cached.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntry() {
+        StationReadCache cache = new StationReadCache(LONG_TTL, 2);
+
+        cache.getOrLoad(1, CommandType.GET_VERSION, String.class, loader("1.0.1"));
+        cache.getOrLoad(2, CommandType.GET_VERSION, String.class, loader("1.0.2"));
+        cache.getOrLoad(1, CommandType.GET_VERSION, String.class, loader("unexpected"));
+        cache.getOrLoad(3, CommandType.GET_VERSION, String.class, loader("1.0.3"));
+
+        assertThat(cache.stats(), equalTo(new CacheStats(1, 3, 1, 2)));
+        assertThat(cache.getOrLoad(1, CommandType.GET_VERSION, String.class, loader("unexpected")), equalTo("1.0.1"));
+        assertThat(cache.getOrLoad(2, CommandType.GET_VERSION, String.class, loader("1.0.2-reloaded")), equalTo("1.0.2-reloaded"));
+        assertThat(loads.get(), is(4));
+    }
+
+    @Feature("READ_CACHE")
+    @DisplayName("Should Not Cache A Value Loaded While Its Entry Was Invalidated.")
+    @Description("1. Read the interval of a station through the cache, with an invalidation of that interval happening while it loads, as a concurrent setValues would.\n 2. Read the interval again.\n 3. Expect the first value not to have been cached, so the second read loads again.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldNotCacheValueLoadedDuringInvalidation() {
+        StationReadCache cache = new StationReadCache(LONG_TTL, 16);
+
+        int stale = cache.getOrLoad(1, CommandType.GET_INTERVAL, Integer.class, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(1, CommandType.GET_INTERVAL);
+            return 60;
+        });
+        assertThat(stale, is(60));
+        assertThat(cache.stats().size(), is(0));
+
+        int interval = cache.getOrLoad(1, CommandType.GET_INTERVAL, Integer.class, loader(90));
+        assertThat(interval, is(90));
+        assertThat(loads.get(), is(2));
+        assertThat(cache.stats(), equalTo(new CacheStats(0, 2, 0, 1)));
+    }
+
+    private <T> Supplier<T> loader(T value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+}
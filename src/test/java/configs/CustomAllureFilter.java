@@ -1,9 +1,29 @@
 package configs;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import io.qameta.allure.attachment.DefaultAttachmentProcessor;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
 import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
 
 public class CustomAllureFilter {
-    private static final AllureRestAssured FILTER = new AllureRestAssured();
+    private static final AllureRestAssured FILTER = new SharedTemplatesFilter("request.ftl", "response.ftl");
 
     private CustomAllureFilter() {}
 
@@ -12,8 +32,6 @@ public class CustomAllureFilter {
     }
 
     public AllureRestAssured withCustomTemplates() {
-        FILTER.setRequestTemplate("request.ftl");
-        FILTER.setResponseTemplate("response.ftl");
         return FILTER;
 
     }
@@ -21,4 +39,107 @@ public class CustomAllureFilter {
     private static class InitFilter {
         private static final CustomAllureFilter customAllureFilter = new CustomAllureFilter();
     }
+
+    // same attachments as AllureRestAssured, but its renderers (a FreeMarker configuration and parsed template each)
+    // are created once instead of on every request.
+    // filter() mirrors AllureRestAssured.filter of allure-rest-assured 2.25.0 (see allure.version in pom.xml),
+    // including the RestAssured Prettifier it relies on, so it has to be compared with upstream whenever Allure is upgraded
+    // renderings are stored by their content hash (see DeduplicatingAttachmentsListener), so, unlike upstream,
+    // the request is rendered with its path as written ({stationId} rather than the id), the resolved url going into
+    // the attachment name instead, and response headers that differ on every call are left out
+    private static class SharedTemplatesFilter extends AllureRestAssured {
+        private static final Set<String> VOLATILE_RESPONSE_HEADERS = Set.of("date");
+
+        private volatile FreemarkerAttachmentRenderer requestRenderer;
+        private volatile FreemarkerAttachmentRenderer responseRenderer;
+        private volatile String requestAttachmentName = "Request";
+        // unless set, the response attachment is named after the status line, as upstream does
+        private volatile String responseAttachmentName;
+
+        private SharedTemplatesFilter(String requestTemplate, String responseTemplate) {
+            setRequestTemplate(requestTemplate);
+            setResponseTemplate(responseTemplate);
+            StartupReport.mark("Allure filter and templates loaded");
+        }
+
+        // the setters inherited from AllureRestAssured only update fields its own filter() reads,
+        // so they are overridden to keep this filter's renderers and names in step
+
+        @Override
+        public AllureRestAssured setRequestTemplate(String templatePath) {
+            FreemarkerAttachmentRenderer renderer = new FreemarkerAttachmentRenderer(templatePath);
+            // renders once up front, so the template is loaded and parsed before the first test needs it
+            renderer.render(HttpRequestAttachment.Builder.create("Request", "").build());
+            requestRenderer = renderer;
+            return this;
+        }
+
+        @Override
+        public AllureRestAssured setResponseTemplate(String templatePath) {
+            FreemarkerAttachmentRenderer renderer = new FreemarkerAttachmentRenderer(templatePath);
+            renderer.render(HttpResponseAttachment.Builder.create("Response").build());
+            responseRenderer = renderer;
+            return this;
+        }
+
+        @Override
+        public AllureRestAssured setRequestAttachmentName(String requestAttachmentName) {
+            this.requestAttachmentName = requestAttachmentName;
+            return this;
+        }
+
+        @Override
+        public AllureRestAssured setResponseAttachmentName(String responseAttachmentName) {
+            this.responseAttachmentName = responseAttachmentName;
+            return this;
+        }
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext filterContext) {
+            Prettifier prettifier = new Prettifier();
+            String requestName = requestAttachmentName + ": " + requestSpec.getMethod() + " " + requestSpec.getURI();
+            String unresolvedUri = requestSpec.getURI().replace(requestSpec.getDerivedPath(),
+                    requestSpec.getBasePath() + requestSpec.getUserDefinedPath());
+            HttpRequestAttachment.Builder requestAttachment = HttpRequestAttachment.Builder.create(requestName, unresolvedUri)
+                    .setMethod(requestSpec.getMethod())
+                    .setHeaders(toMap(requestSpec.getHeaders()))
+                    .setCookies(toMap(requestSpec.getCookies()));
+            if (Objects.nonNull(requestSpec.getBody())) {
+                requestAttachment.setBody(prettifier.getPrettifiedBodyIfPossible(requestSpec));
+            }
+            new DefaultAttachmentProcessor().addAttachment(requestAttachment.build(), requestRenderer);
+            StartupReport.mark("first request attachment written");
+
+            Response response = filterContext.next(requestSpec, responseSpec);
+
+            String attachmentName = Optional.ofNullable(responseAttachmentName).orElse(response.getStatusLine());
+            HttpResponseAttachment responseAttachment = HttpResponseAttachment.Builder.create(attachmentName)
+                    .setResponseCode(response.getStatusCode())
+                    .setHeaders(toMap(response.getHeaders().asList().stream()
+                            .filter(header -> !VOLATILE_RESPONSE_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT)))
+                            .toList()))
+                    .setBody(prettifier.getPrettifiedBodyIfPossible(response, response.getBody()))
+                    .build();
+            new DefaultAttachmentProcessor().addAttachment(responseAttachment, responseRenderer);
+            return response;
+        }
+
+        private static Map<String, String> toMap(Headers headers) {
+            return toMap(headers.asList());
+        }
+
+        private static Map<String, String> toMap(List<Header> headers) {
+            Map<String, String> result = new HashMap<>();
+            headers.forEach(header -> result.put(header.getName(), header.getValue()));
+            return result;
+        }
+
+        private static Map<String, String> toMap(Cookies cookies) {
+            Map<String, String> result = new HashMap<>();
+            cookies.forEach(cookie -> result.put(cookie.getName(), cookie.getValue()));
+            return result;
+        }
+    }
 }
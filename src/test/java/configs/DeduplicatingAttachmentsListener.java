@@ -0,0 +1,98 @@
+package configs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import io.qameta.allure.listener.ContainerLifecycleListener;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.model.WithAttachments;
+import io.qameta.allure.model.WithSteps;
+import io.qameta.allure.util.PropertiesUtils;
+
+/**
+ * Stores allure attachments by the hash of their content, so that identical request and response renderings
+ * produced across parameterized runs end up in allure-results only once.
+ * Allure writes every attachment under a random name as soon as it's added;
+ * right before the test result (or container) referencing it is written, the file is renamed to its content hash,
+ * or deleted if a file with the same content is already there, and the reference is updated accordingly.
+ * Only byte-identical renderings collapse, which is why CustomAllureFilter keeps station ids and Date headers out of them.
+ * Registered through META-INF/services, once per listener interface, as that is how allure looks them up.
+ */
+public class DeduplicatingAttachmentsListener implements TestLifecycleListener, ContainerLifecycleListener {
+
+    private final Path resultsDirectory;
+
+    public DeduplicatingAttachmentsListener() {
+        this(Paths.get(PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results")));
+    }
+
+    DeduplicatingAttachmentsListener(Path resultsDirectory) {
+        this.resultsDirectory = resultsDirectory;
+    }
+
+    @Override
+    public void beforeTestWrite(TestResult result) {
+        relinkAttachments(result);
+    }
+
+    @Override
+    public void beforeContainerWrite(TestResultContainer container) {
+        container.getBefores().forEach(this::relinkAttachments);
+        container.getAfters().forEach(this::relinkAttachments);
+    }
+
+    private void relinkAttachments(Object item) {
+        if (item instanceof WithAttachments withAttachments) {
+            withAttachments.getAttachments().forEach(this::relink);
+        }
+        if (item instanceof WithSteps withSteps) {
+            withSteps.getSteps().forEach(this::relinkAttachments);
+        }
+    }
+
+    private void relink(Attachment attachment) {
+        if (attachment.getSource() == null) {
+            return;
+        }
+        Path written = resultsDirectory.resolve(attachment.getSource());
+        try {
+            String contentName = hashOf(written) + "-attachment" + extensionOf(attachment.getSource());
+            Path deduplicated = resultsDirectory.resolve(contentName);
+            try {
+                Files.move(written, deduplicated);
+            } catch (FileAlreadyExistsException e) {
+                Files.delete(written);
+            }
+            attachment.setSource(contentName);
+        } catch (IOException e) {
+            // attachment keeps its original name, the report is still complete, only a little bigger
+        }
+    }
+
+    private static String hashOf(Path file) throws IOException {
+        try (DigestInputStream in = new DigestInputStream(Files.newInputStream(file), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String extensionOf(String source) {
+        int dot = source.lastIndexOf('.');
+        return dot < 0 ? "" : source.substring(dot);
+    }
+
+}
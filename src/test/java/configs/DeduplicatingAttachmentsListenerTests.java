@@ -0,0 +1,131 @@
+package configs;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+public class DeduplicatingAttachmentsListenerTests {
+
+    private static final String RESPONSE = "<html><body>200 {\"result\": 1}</body></html>";
+    private static final String OTHER_RESPONSE = "<html><body>200 {\"result\": 0}</body></html>";
+
+    @TempDir
+    private Path directory;
+
+    @Feature("ALLURE_ATTACHMENTS")
+    @DisplayName("Should Keep A Single File For Identical Attachments Of Different Tests.")
+    @Description("1. Write two attachments with the same content and one with different content under random names, each referenced by its own test result.\n 2. Let the listener handle all three results before they are written.\n 3. Expect two files named after their content hash, the first two results to reference the same one, and no randomly named file to be left.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldCollapseIdenticalAttachments() throws IOException {
+        DeduplicatingAttachmentsListener listener = new DeduplicatingAttachmentsListener(directory);
+        TestResult first = new TestResult().setAttachments(List.of(attachment(RESPONSE)));
+        TestResult second = new TestResult().setAttachments(List.of(attachment(RESPONSE)));
+        TestResult other = new TestResult().setAttachments(List.of(attachment(OTHER_RESPONSE)));
+
+        listener.beforeTestWrite(first);
+        listener.beforeTestWrite(second);
+        listener.beforeTestWrite(other);
+
+        assertThat(first.getAttachments().get(0).getSource(), equalTo(hashedName(RESPONSE)));
+        assertThat(second.getAttachments().get(0).getSource(), equalTo(hashedName(RESPONSE)));
+        assertThat(other.getAttachments().get(0).getSource(), equalTo(hashedName(OTHER_RESPONSE)));
+        assertThat(files(), containsInAnyOrder(hashedName(RESPONSE), hashedName(OTHER_RESPONSE)));
+    }
+
+    @Feature("ALLURE_ATTACHMENTS")
+    @DisplayName("Should Rewrite References In Nested Steps And In Container Fixtures.")
+    @Description("1. Reference attachments from a step nested in another step of a test result, and from the before and after fixtures of a container.\n 2. Let the listener handle the test result and the container before they are written.\n 3. Expect every reference to name the content hash of its attachment, and only those files to be left.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldRelinkStepAndFixtureAttachments() throws IOException {
+        DeduplicatingAttachmentsListener listener = new DeduplicatingAttachmentsListener(directory);
+        Attachment inStep = attachment(RESPONSE);
+        Attachment inBefore = attachment(OTHER_RESPONSE);
+        Attachment inAfter = attachment(RESPONSE);
+        TestResult result = new TestResult().setSteps(List.of(
+                new StepResult().setSteps(List.of(new StepResult().setAttachments(List.of(inStep))))));
+        TestResultContainer container = new TestResultContainer()
+                .setBefores(List.of(new FixtureResult().setAttachments(List.of(inBefore))))
+                .setAfters(List.of(new FixtureResult().setAttachments(List.of(inAfter))));
+
+        listener.beforeTestWrite(result);
+        listener.beforeContainerWrite(container);
+
+        assertThat(inStep.getSource(), equalTo(hashedName(RESPONSE)));
+        assertThat(inBefore.getSource(), equalTo(hashedName(OTHER_RESPONSE)));
+        assertThat(inAfter.getSource(), equalTo(hashedName(RESPONSE)));
+        assertThat(files(), containsInAnyOrder(hashedName(RESPONSE), hashedName(OTHER_RESPONSE)));
+    }
+
+    @Feature("ALLURE_ATTACHMENTS")
+    @DisplayName("Should Delete The New Copy When The Hashed File Already Exists.")
+    @Description("1. Write a file named after the content hash of an attachment, as an earlier run or test would have left it.\n 2. Write the same content under a random name and let the listener handle the test result referencing it.\n 3. Expect the reference to name the existing file, the random copy to be deleted, and the existing file to keep its content.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldDeleteCopyOfExistingAttachment() throws IOException {
+        DeduplicatingAttachmentsListener listener = new DeduplicatingAttachmentsListener(directory);
+        Path existing = Files.writeString(directory.resolve(hashedName(RESPONSE)), RESPONSE);
+        Attachment copy = attachment(RESPONSE);
+        Path written = directory.resolve(copy.getSource());
+
+        listener.beforeTestWrite(new TestResult().setAttachments(List.of(copy)));
+
+        assertThat(copy.getSource(), equalTo(hashedName(RESPONSE)));
+        assertThat(Files.exists(written), equalTo(false));
+        assertThat(files(), containsInAnyOrder(hashedName(RESPONSE)));
+        assertThat(Files.readString(existing), equalTo(RESPONSE));
+    }
+
+    // written the way allure does, under a random name, before anything referencing it is written
+    private Attachment attachment(String content) throws IOException {
+        String source = UUID.randomUUID() + "-attachment.html";
+        Files.writeString(directory.resolve(source), content);
+        return new Attachment().setName("Response").setType("text/html").setSource(source);
+    }
+
+    private static String hashedName(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash) + "-attachment.html";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+
+}
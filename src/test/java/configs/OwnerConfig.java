@@ -4,10 +4,17 @@ import org.aeonbits.owner.ConfigFactory;
 
 public class OwnerConfig {
 
-    public static final Properties CONFIG = ConfigFactory.create(
-            Properties.class,
-            System.getenv(),
-            System.getProperties()
-    );
+    public static final Properties CONFIG = createConfig();
+
+    private static Properties createConfig() {
+        StartupReport.mark("JVM and test engine started");
+        Properties config = ConfigFactory.create(
+                Properties.class,
+                System.getenv(),
+                System.getProperties()
+        );
+        StartupReport.mark("Owner config created");
+        return config;
+    }
 
 }
@@ -19,4 +19,60 @@ public interface Properties extends Config {
     @Key("basePath")
     String getBasePath();
 
+    @Key("connectTimeoutMillis")
+    @DefaultValue("10000")
+    int getConnectTimeoutMillis();
+
+    @Key("readTimeoutMillis")
+    @DefaultValue("30000")
+    int getReadTimeoutMillis();
+
+    @Key("exchangeLog.directory")
+    @DefaultValue("target/exchange-logs")
+    String getExchangeLogDirectory();
+
+    // rounded up to the next power of two
+    @Key("exchangeLog.capacity")
+    @DefaultValue("1024")
+    int getExchangeLogCapacity();
+
+    @Key("exchangeLog.maxBodyChars")
+    @DefaultValue("4096")
+    int getExchangeLogMaxBodyChars();
+
+    // 'simulator' starts a local StationSimulator, 'configured' benchmarks the server at baseUri
+    @Key("benchmark.target")
+    @DefaultValue("simulator")
+    String getBenchmarkTarget();
+
+    @Key("benchmark.maxConcurrency")
+    @DefaultValue("32")
+    int getBenchmarkMaxConcurrency();
+
+    @Key("benchmark.warmupMillis")
+    @DefaultValue("200")
+    int getBenchmarkWarmupMillis();
+
+    @Key("benchmark.measurementMillis")
+    @DefaultValue("1000")
+    int getBenchmarkMeasurementMillis();
+
+    @Key("benchmark.outputDirectory")
+    @DefaultValue("target/benchmarks")
+    String getBenchmarkOutputDirectory();
+
+    // set from the project version by the benchmark profile, so results of different versions can be told apart
+    @Key("benchmark.version")
+    @DefaultValue("unknown")
+    String getBenchmarkVersion();
+
+    @Key("simulator.serviceTimeMillis")
+    @DefaultValue("2")
+    int getSimulatorServiceTimeMillis();
+
+    // requests the simulator serves at once, the rest queue up, which is what gives the curves their knee
+    @Key("simulator.workers")
+    @DefaultValue("8")
+    int getSimulatorWorkers();
+
 }
@@ -0,0 +1,73 @@
+package configs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Breakdown of time-to-first-request, measured from JVM process start.
+ * Enabled with -Dstartup.report=true (the fast-startup profile does so); otherwise every call is a no-op.
+ * Plain system property instead of Owner, since Owner initialization is one of the phases being measured.
+ */
+public final class StartupReport {
+
+    private static final boolean ENABLED = Boolean.getBoolean("startup.report");
+    private static final Path REPORT_FILE = Paths.get("target", "startup-report.txt");
+    private static final Map<String, Long> PHASES = new LinkedHashMap<>();
+    private static boolean reported;
+
+    private StartupReport() {}
+
+    // records when the phase ended, only the first time it is reached
+    public static void mark(String phase) {
+        if (ENABLED) {
+            synchronized (PHASES) {
+                PHASES.putIfAbsent(phase, millisSinceJvmStart());
+            }
+        }
+    }
+
+    public static void firstRequestCompleted() {
+        if (!ENABLED) {
+            return;
+        }
+        String report;
+        synchronized (PHASES) {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            PHASES.putIfAbsent("first request completed", millisSinceJvmStart());
+            report = format();
+        }
+        System.out.print(report);
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.writeString(REPORT_FILE, report);
+        } catch (IOException e) {
+            // the report has been printed already, the file is only a convenience
+        }
+    }
+
+    private static String format() {
+        StringBuilder report = new StringBuilder("Time to first request (ms since JVM start):\n");
+        long previous = 0;
+        for (Map.Entry<String, Long> phase : PHASES.entrySet()) {
+            report.append(String.format("  %-40s %6d  (+%d)%n", phase.getKey(), phase.getValue(), phase.getValue() - previous));
+            previous = phase.getValue();
+        }
+        return report.toString();
+    }
+
+    private static long millisSinceJvmStart() {
+        return ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()).toMillis())
+                .orElse(-1L);
+    }
+
+}
@@ -0,0 +1,213 @@
+package faults;
+
+import static configs.OwnerConfig.CONFIG;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import models.CommandType;
+import simulator.LocalServers;
+
+/**
+ * In-process HTTP proxy that sits between StationAPIClient and the target base URI
+ * and degrades exchanges according to the FaultProfile configured for a station or a command.
+ * Station faults take precedence over command faults.
+ * While no faults are configured, requests are forwarded as is, without parsing their bodies.
+ */
+public class FaultInjectingProxy implements AutoCloseable {
+
+    // headers that are managed by the http stacks on both sides of the proxy
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "content-length", "date", "transfer-encoding");
+    private static final long BANDWIDTH_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final URI target;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient upstream = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(executor)
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Pattern stationIdPattern;
+    private final Map<Integer, FaultProfile> stationFaults = new ConcurrentHashMap<>();
+    private final Map<CommandType, FaultProfile> commandFaults = new ConcurrentHashMap<>();
+
+    private FaultInjectingProxy(String targetBaseUri) throws IOException {
+        target = URI.create(targetBaseUri);
+        stationIdPattern = LocalServers.stationPathPattern();
+        server = LocalServers.startOnLoopback(executor, this::handle);
+    }
+
+    public static FaultInjectingProxy start() throws IOException {
+        return new FaultInjectingProxy(CONFIG.getBaseUri());
+    }
+
+    public static FaultInjectingProxy start(String targetBaseUri) throws IOException {
+        return new FaultInjectingProxy(targetBaseUri);
+    }
+
+    // pass this to StationAPIClient instead of the configured base URI
+    public String getBaseUri() {
+        return LocalServers.baseUri(server);
+    }
+
+    public FaultInjectingProxy withStationFaults(int stationId, FaultProfile profile) {
+        stationFaults.put(stationId, profile);
+        return this;
+    }
+
+    public FaultInjectingProxy withCommandFaults(CommandType command, FaultProfile profile) {
+        commandFaults.put(command, profile);
+        return this;
+    }
+
+    public void clearFaults() {
+        stationFaults.clear();
+        commandFaults.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Optional<FaultProfile> profile = resolveProfile(exchange.getRequestURI().getPath(), requestBody);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            if (profile.isPresent()) {
+                sleepMillis(profile.get().latency().sampleMillis(random));
+                if (random.nextDouble() < profile.get().dropProbability()) {
+                    // closing the exchange before any header is sent closes the underlying connection
+                    return;
+                }
+            }
+
+            HttpResponse<byte[]> response;
+            try {
+                response = forward(exchange, requestBody);
+            } catch (IOException e) {
+                exchange.sendResponseHeaders(502, -1);
+                return;
+            }
+
+            response.headers().map().forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                    exchange.getResponseHeaders().put(name, values);
+                }
+            });
+            byte[] responseBody = response.body();
+            exchange.sendResponseHeaders(response.statusCode(), responseBody.length == 0 ? -1 : responseBody.length);
+            if (responseBody.length == 0) {
+                return;
+            }
+
+            int bytesToSend = responseBody.length;
+            if (profile.isPresent() && random.nextDouble() < profile.get().truncateProbability()) {
+                bytesToSend = (int) (responseBody.length * profile.get().truncatedFraction());
+            }
+            writeBody(exchange.getResponseBody(), responseBody, bytesToSend, profile.orElse(null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<FaultProfile> resolveProfile(String path, byte[] requestBody) {
+        if (stationFaults.isEmpty() && commandFaults.isEmpty()) {
+            return Optional.empty();
+        }
+        Matcher matcher = stationIdPattern.matcher(path);
+        if (matcher.matches()) {
+            FaultProfile stationProfile = stationFaults.get(Integer.parseInt(matcher.group(1)));
+            if (stationProfile != null) {
+                return Optional.of(stationProfile);
+            }
+        }
+        if (commandFaults.isEmpty()) {
+            return Optional.empty();
+        }
+        String command;
+        try {
+            command = mapper.readTree(requestBody).path("command").asText();
+        } catch (IOException e) {
+            // negative tests send malformed bodies on purpose, such requests simply get no command faults
+            return Optional.empty();
+        }
+        for (CommandType type : CommandType.values()) {
+            if (type.value().equals(command)) {
+                return Optional.ofNullable(commandFaults.get(type));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private HttpResponse<byte[]> forward(HttpExchange exchange, byte[] requestBody) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target.resolve(exchange.getRequestURI().toString()))
+                .method(exchange.getRequestMethod(), HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        for (String header : List.of("Content-Type", "Accept")) {
+            String value = exchange.getRequestHeaders().getFirst(header);
+            if (value != null) {
+                request.header(header, value);
+            }
+        }
+        return upstream.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static void writeBody(OutputStream out, byte[] body, int bytesToSend, FaultProfile profile)
+            throws IOException, InterruptedException {
+        int chunkBytes = bytesToSend;
+        long pauseNanos = 0;
+        if (profile != null && profile.dripChunkBytes() > 0) {
+            chunkBytes = profile.dripChunkBytes();
+            pauseNanos = profile.dripInterval().toNanos();
+        } else if (profile != null && profile.bytesPerSecond() > 0) {
+            chunkBytes = (int) Math.max(1, profile.bytesPerSecond() * BANDWIDTH_SLICE_NANOS / TimeUnit.SECONDS.toNanos(1));
+        }
+        if (profile != null && profile.bytesPerSecond() > 0) {
+            // dripped chunks are paced to the bandwidth limit as well, whichever pause is longer wins
+            pauseNanos = Math.max(pauseNanos, TimeUnit.SECONDS.toNanos(chunkBytes) / profile.bytesPerSecond());
+        }
+
+        for (int offset = 0; offset < bytesToSend; offset += chunkBytes) {
+            if (offset > 0) {
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            }
+            out.write(body, offset, Math.min(chunkBytes, bytesToSend - offset));
+            out.flush();
+        }
+        if (bytesToSend < body.length) {
+            // closing the stream would only report the missing bytes and leave the connection open,
+            // whereas an exception escaping the handler makes the server close the connection mid-body
+            throw new IOException("Response body truncated after " + bytesToSend + " of " + body.length + " bytes");
+        }
+        out.close();
+    }
+
+    private static void sleepMillis(long millis) throws InterruptedException {
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+
+}
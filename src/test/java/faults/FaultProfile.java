@@ -0,0 +1,78 @@
+package faults;
+
+import java.time.Duration;
+
+// describes how the proxy degrades exchanges of a single station or command
+public class FaultProfile {
+
+    private LatencyDistribution latency = LatencyDistribution.none();
+    private double dropProbability;
+    private double truncateProbability;
+    private double truncatedFraction = 0.5;
+    private long bytesPerSecond;
+    private int dripChunkBytes;
+    private Duration dripInterval = Duration.ZERO;
+
+    public FaultProfile() {}
+
+    public FaultProfile withLatency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    // connection is closed before the request reaches the target, so no response status is ever sent
+    public FaultProfile withDroppedConnections(double probability) {
+        this.dropProbability = probability;
+        return this;
+    }
+
+    // full Content-Length is announced, but the connection is closed after the given fraction of the body
+    public FaultProfile withTruncatedBodies(double probability, double truncatedFraction) {
+        this.truncateProbability = probability;
+        this.truncatedFraction = truncatedFraction;
+        return this;
+    }
+
+    // response body is sent in slices, each followed by a pause long enough to stay within the limit
+    public FaultProfile withBandwidthLimit(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        return this;
+    }
+
+    // response body is sent in chunks of the given size with a pause between each of them,
+    // combined with a bandwidth limit the pause is stretched whenever the limit requires a longer one
+    public FaultProfile withSlowDrip(int chunkBytes, Duration interval) {
+        this.dripChunkBytes = chunkBytes;
+        this.dripInterval = interval;
+        return this;
+    }
+
+    public LatencyDistribution latency() {
+        return this.latency;
+    }
+
+    public double dropProbability() {
+        return this.dropProbability;
+    }
+
+    public double truncateProbability() {
+        return this.truncateProbability;
+    }
+
+    public double truncatedFraction() {
+        return this.truncatedFraction;
+    }
+
+    public long bytesPerSecond() {
+        return this.bytesPerSecond;
+    }
+
+    public int dripChunkBytes() {
+        return this.dripChunkBytes;
+    }
+
+    public Duration dripInterval() {
+        return this.dripInterval;
+    }
+
+}
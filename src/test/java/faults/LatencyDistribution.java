@@ -0,0 +1,41 @@
+package faults;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// delay that the proxy adds before forwarding a request, sampled anew for every exchange
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long sampleMillis(ThreadLocalRandom random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(Duration delay) {
+        long millis = delay.toMillis();
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minMillis = min.toMillis();
+        long maxMillis = max.toMillis();
+        return random -> random.nextLong(minMillis, maxMillis + 1);
+    }
+
+    // negative samples are clamped to zero, so a wide deviation skews the mean slightly upwards
+    static LatencyDistribution normal(Duration mean, Duration standardDeviation) {
+        long meanMillis = mean.toMillis();
+        long deviationMillis = standardDeviation.toMillis();
+        return random -> Math.max(0, Math.round(random.nextGaussian(meanMillis, deviationMillis)));
+    }
+
+    // mostly fast responses with an occasional long tail, e.g. GC pauses or cold caches on the server
+    static LatencyDistribution spikes(Duration base, Duration spike, double spikeProbability) {
+        long baseMillis = base.toMillis();
+        long spikeMillis = spike.toMillis();
+        return random -> random.nextDouble() < spikeProbability ? spikeMillis : baseMillis;
+    }
+
+}
@@ -0,0 +1,236 @@
+package logging;
+
+import static configs.OwnerConfig.CONFIG;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import models.CommandType;
+
+/**
+ * Structured sink for failed exchanges, replacing synchronous log().ifError() output.
+ * Test threads only claim a slot of a preallocated ring buffer and fill it in, they never wait for I/O;
+ * a background thread writes the slots out as JSON lines into a single file per run.
+ * When the buffer is full, e.g. during an error storm, new records are dropped and counted instead,
+ * so memory stays bounded by capacity * maxBodyChars.
+ */
+public class ExchangeLog {
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final Slot[] slots;
+    private final int mask;
+    private final int maxBodyChars;
+    private final Path file;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private Thread flusher;
+    private volatile boolean closed;
+    private JsonGenerator generator;
+
+    // package-private with start() kept apart, so tests can fill the buffer while nothing drains it
+    ExchangeLog(Path directory, int requestedCapacity, int maxBodyChars) {
+        int capacity = Integer.highestOneBit(Math.max(1, requestedCapacity) * 2 - 1);
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i - capacity);
+        }
+        mask = capacity - 1;
+        this.maxBodyChars = maxBodyChars;
+        // forked JVMs can start within the same second, the pid keeps their files apart
+        file = directory.resolve("exchanges-" + RUN_ID_FORMAT.format(Instant.now()) + "-" + ProcessHandle.current().pid() + ".jsonl");
+    }
+
+    ExchangeLog start() {
+        flusher = new Thread(this::flushLoop, "exchange-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        return this;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    public static ExchangeLog exchangeLog() {
+        return InitLog.exchangeLog;
+    }
+
+    public void record(String testName, int stationId, CommandType command, int payload,
+                       int statusCode, long timeMillis, String responseBody) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (closed || sequence - consumed.get() >= slots.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) sequence & mask];
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.testName = testName;
+        slot.stationId = stationId;
+        slot.command = command;
+        slot.payload = payload;
+        slot.statusCode = statusCode;
+        slot.timeMillis = timeMillis;
+        slot.responseBody = responseBody != null && responseBody.length() > maxBodyChars
+                ? responseBody.substring(0, maxBodyChars)
+                : responseBody;
+        // volatile write publishes all the fields above to the flusher
+        slot.sequence = sequence;
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int drain() {
+        int written = 0;
+        long next = consumed.get();
+        Slot slot = slots[(int) next & mask];
+        while (slot.sequence == next) {
+            write(slot);
+            slot.testName = null;
+            slot.responseBody = null;
+            consumed.set(++next);
+            written++;
+            slot = slots[(int) next & mask];
+        }
+        if (written > 0) {
+            flush();
+        }
+        return written;
+    }
+
+    private void write(Slot slot) {
+        try {
+            JsonGenerator json = generator();
+            json.writeStartObject();
+            json.writeStringField("timestamp", Instant.ofEpochMilli(slot.timestampMillis).toString());
+            json.writeStringField("test", slot.testName);
+            json.writeNumberField("stationId", slot.stationId);
+            json.writeStringField("command", slot.command == null ? null : slot.command.value());
+            json.writeNumberField("payload", slot.payload);
+            json.writeNumberField("statusCode", slot.statusCode);
+            json.writeNumberField("timeMillis", slot.timeMillis);
+            json.writeStringField("responseBody", slot.responseBody);
+            json.writeEndObject();
+        } catch (IOException e) {
+            // losing a diagnostic record must never fail the run
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void flush() {
+        try {
+            generator().flush();
+        } catch (IOException e) {
+            // same as above, the records stay lost and the run goes on
+        }
+    }
+
+    private JsonGenerator generator() throws IOException {
+        if (generator == null) {
+            Files.createDirectories(file.getParent());
+            // never appends to or truncates a log written by another run
+            BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+            generator = new JsonFactory().createGenerator(writer);
+            // one record per line, so the file can be grepped and streamed
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+        return generator;
+    }
+
+    // stops accepting records, drains what's left and closes the file; runs as a shutdown hook for the shared log
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // the slots and the file belong to the flusher for as long as it runs, e.g. stuck writing to a slow disk
+        boolean flusherStopped = flusher == null || !flusher.isAlive();
+        if (flusherStopped) {
+            drain();
+        }
+        // moving claimed on makes every pending claim fail, so what's left unconsumed is final: records not written
+        // by a stuck flusher, or claimed by producers that got past the closed check but published after the drain
+        dropped.addAndGet(claimed.getAndSet(Long.MAX_VALUE) - consumed.get());
+        if (!flusherStopped) {
+            System.err.println("Exchange log flusher didn't stop in time, up to " + dropped.get() + " records dropped from " + file);
+            return;
+        }
+        try {
+            if (dropped.get() > 0) {
+                JsonGenerator json = generator();
+                json.writeStartObject();
+                json.writeNumberField("droppedRecords", dropped.get());
+                json.writeEndObject();
+            }
+            if (generator != null) {
+                generator.writeRaw('\n');
+                generator.close();
+            }
+        } catch (IOException e) {
+            // nothing left to report it to during shutdown
+        }
+    }
+
+    private static final class Slot {
+        // sequence of the record currently stored in the slot, published last
+        private volatile long sequence;
+        private long timestampMillis;
+        private String testName;
+        private int stationId;
+        private CommandType command;
+        private int payload;
+        private int statusCode;
+        private long timeMillis;
+        private String responseBody;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    private static class InitLog {
+        private static final ExchangeLog exchangeLog = createExchangeLog();
+
+        private static ExchangeLog createExchangeLog() {
+            ExchangeLog log = new ExchangeLog(Paths.get(CONFIG.getExchangeLogDirectory()),
+                    CONFIG.getExchangeLogCapacity(), CONFIG.getExchangeLogMaxBodyChars()).start();
+            Runtime.getRuntime().addShutdownHook(new Thread(log::close, "exchange-log-shutdown"));
+            return log;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package logging;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+
+public class ExchangeLogTests {
+
+    private static final int PRODUCERS = 8;
+    private static final int MAX_BODY_CHARS = 12;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Feature("EXCHANGE_LOG")
+    @DisplayName("Should Keep Records Up To Capacity And Count The Rest As Dropped When Nothing Drains The Buffer.")
+    @Description("1. Create an exchange log of capacity 16 without starting its flusher.\n 2. Record 100 exchanges from each of 8 threads at once.\n 3. Close the log and expect exactly 16 intact, distinct records in the file, followed by a dropped count of the remaining 784.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldDropRecordsBeyondCapacity() throws Exception {
+        ExchangeLog log = new ExchangeLog(directory, 16, MAX_BODY_CHARS);
+        recordConcurrently(log, 100);
+        log.close();
+
+        List<JsonNode> lines = readLines(log.file());
+        List<JsonNode> records = lines.subList(0, lines.size() - 1);
+        assertThat(records.size(), is(16));
+        assertRecordsIntact(records);
+        assertThat(lines.get(lines.size() - 1).get("droppedRecords").asLong(), is(PRODUCERS * 100L - 16));
+    }
+
+    @Feature("EXCHANGE_LOG")
+    @DisplayName("Should Account For Every Record When Producers Outpace The Flusher.")
+    @Description("1. Create and start an exchange log of capacity 4.\n 2. Record 5000 exchanges from each of 8 threads at once.\n 3. Close the log and expect written plus dropped records to add up to all of them, every written record to be intact and distinct, and the records of each thread to keep their order.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldAccountForEveryRecordUnderContention() throws Exception {
+        ExchangeLog log = new ExchangeLog(directory, 4, MAX_BODY_CHARS).start();
+        recordConcurrently(log, 5000);
+        log.close();
+
+        List<JsonNode> lines = readLines(log.file());
+        JsonNode last = lines.get(lines.size() - 1);
+        long dropped = last.has("droppedRecords") ? last.get("droppedRecords").asLong() : 0;
+        List<JsonNode> records = dropped > 0 ? lines.subList(0, lines.size() - 1) : lines;
+
+        assertThat(records.size(), greaterThan(0));
+        assertThat(records.size() + dropped, is(PRODUCERS * 5000L));
+        assertRecordsIntact(records);
+        // a producer claims increasing sequences and the flusher writes in sequence order
+        int[] lastPayload = new int[PRODUCERS];
+        Arrays.fill(lastPayload, -1);
+        for (JsonNode record : records) {
+            int producer = record.get("stationId").asInt();
+            int payload = record.get("payload").asInt();
+            assertThat(payload, greaterThan(lastPayload[producer]));
+            lastPayload[producer] = payload;
+        }
+    }
+
+    // producer index goes to stationId and record index to payload, so every record can be told apart
+    private static void recordConcurrently(ExchangeLog log, int recordsPerProducer) throws Exception {
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                results.add(producers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < recordsPerProducer; i++) {
+                        log.record("test-" + producer, producer, CommandType.GET_VERSION, i,
+                                500, i, "error body of producer " + producer);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+
+    private void assertRecordsIntact(List<JsonNode> records) {
+        Set<String> seen = new HashSet<>();
+        for (JsonNode record : records) {
+            int producer = record.get("stationId").asInt();
+            int payload = record.get("payload").asInt();
+            assertThat(seen.add(producer + "/" + payload), is(true));
+            // fields of a slot must never mix records of different producers
+            assertThat(record.get("test").asText(), equalTo("test-" + producer));
+            assertThat(record.get("timeMillis").asInt(), is(payload));
+            assertThat(record.get("command").asText(), equalTo(CommandType.GET_VERSION.value()));
+            assertThat(record.get("responseBody").asText(),
+                    equalTo(("error body of producer " + producer).substring(0, MAX_BODY_CHARS)));
+        }
+    }
+
+    private List<JsonNode> readLines(Path file) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.isBlank()) {
+                lines.add(mapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+}
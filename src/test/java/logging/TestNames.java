@@ -0,0 +1,38 @@
+package logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Keeps the full name of every test allure knows about, keyed by its uuid, so that code outside the test itself
+ * can tell which test it is running for without going through AllureLifecycle's update API.
+ * Registered through META-INF/services, like configs.DeduplicatingAttachmentsListener.
+ */
+public class TestNames implements TestLifecycleListener {
+
+    private static final Map<String, String> FULL_NAMES = new ConcurrentHashMap<>();
+
+    // full name of the test running on the calling thread, or null outside of a test
+    public static String currentTestName() {
+        return Allure.getLifecycle().getCurrentTestCase()
+                .map(FULL_NAMES::get)
+                .orElse(null);
+    }
+
+    @Override
+    public void afterTestSchedule(TestResult result) {
+        if (result.getFullName() != null) {
+            FULL_NAMES.put(result.getUuid(), result.getFullName());
+        }
+    }
+
+    @Override
+    public void afterTestWrite(TestResult result) {
+        FULL_NAMES.remove(result.getUuid());
+    }
+
+}
@@ -0,0 +1,37 @@
+package simulator;
+
+import static configs.OwnerConfig.CONFIG;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+// shared by the in-process servers that stand in for the station API (StationSimulator) or sit in front of it (faults.FaultInjectingProxy)
+public final class LocalServers {
+
+    private LocalServers() {}
+
+    // serves every path with the handler, on a free loopback port
+    public static HttpServer startOnLoopback(Executor executor, HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", handler);
+        server.start();
+        return server;
+    }
+
+    public static String baseUri(HttpServer server) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    // matches request paths built from the configured base path, capturing the station id as group 1
+    public static Pattern stationPathPattern() {
+        return Pattern.compile(Pattern.quote(CONFIG.getBasePath()).replace("{stationId}", "\\E(-?\\d+)\\Q"));
+    }
+
+}
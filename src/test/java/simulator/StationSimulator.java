@@ -0,0 +1,129 @@
+package simulator;
+
+import static configs.OwnerConfig.CONFIG;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import models.CommandType;
+
+/**
+ * Local stand-in for the station API, used to benchmark the client without a shared test environment.
+ * Mirrors the behaviour the functional tests expect: known stations report a version and keep the interval set last,
+ * unknown stations get empty results, and unsupported commands are answered with 400.
+ * Capacity is limited to a fixed number of workers, each spending a fixed service time per request.
+ */
+public class StationSimulator implements AutoCloseable {
+
+    private static final String VERSION = "1.0.0-simulator";
+    private static final int DEFAULT_INTERVAL = 60;
+
+    private final Set<Integer> stationIds;
+    private final long serviceTimeMillis;
+    private final Semaphore workers;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Pattern stationIdPattern;
+    private final Map<Integer, Integer> intervals = new ConcurrentHashMap<>();
+
+    private StationSimulator(Set<Integer> stationIds, long serviceTimeMillis, int workers) throws IOException {
+        this.stationIds = Set.copyOf(stationIds);
+        this.serviceTimeMillis = serviceTimeMillis;
+        this.workers = new Semaphore(workers, true);
+        stationIdPattern = LocalServers.stationPathPattern();
+        server = LocalServers.startOnLoopback(executor, this::handle);
+    }
+
+    public static StationSimulator start(Set<Integer> stationIds) throws IOException {
+        return new StationSimulator(stationIds, CONFIG.getSimulatorServiceTimeMillis(), CONFIG.getSimulatorWorkers());
+    }
+
+    public String getBaseUri() {
+        return LocalServers.baseUri(server);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Matcher matcher = stationIdPattern.matcher(exchange.getRequestURI().getPath());
+            if (!"POST".equals(exchange.getRequestMethod()) || !matcher.matches()) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            workers.acquire();
+            try {
+                TimeUnit.MILLISECONDS.sleep(serviceTimeMillis);
+                respond(exchange, Integer.parseInt(matcher.group(1)), requestBody);
+            } finally {
+                workers.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int stationId, byte[] requestBody) throws IOException {
+        JsonNode request;
+        try {
+            request = mapper.readTree(requestBody);
+        } catch (IOException e) {
+            exchange.sendResponseHeaders(400, -1);
+            return;
+        }
+        JsonNode command = request == null ? null : request.get("command");
+        JsonNode payload = request == null ? null : request.get("payload");
+        boolean exists = stationIds.contains(stationId);
+
+        String result;
+        if (command == null || !command.isTextual()) {
+            exchange.sendResponseHeaders(400, -1);
+            return;
+        } else if (CommandType.GET_VERSION.value().equals(command.asText())) {
+            result = exists ? "\"" + VERSION + "\"" : "\"\"";
+        } else if (CommandType.GET_INTERVAL.value().equals(command.asText())) {
+            result = exists ? String.valueOf(intervals.getOrDefault(stationId, DEFAULT_INTERVAL)) : "0";
+        } else if (CommandType.SET_VALUES.value().equals(command.asText())) {
+            if (!exists) {
+                result = "null";
+            } else if (payload != null && payload.isInt() && payload.intValue() > 0) {
+                intervals.put(stationId, payload.intValue());
+                result = "\"OK\"";
+            } else {
+                result = "\"FAILED\"";
+            }
+        } else {
+            exchange.sendResponseHeaders(400, -1);
+            return;
+        }
+
+        byte[] body = ("{\"result\":" + result + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package tests.benchmark;
+
+import static configs.OwnerConfig.CONFIG;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import benchmark.BenchmarkPoint;
+import benchmark.BenchmarkReport;
+import benchmark.ThroughputRunner;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+import simulator.StationSimulator;
+
+// not matched by surefire's default includes, runs with: mvn test -Pbenchmark
+public class StationThroughputBenchmark {
+
+    private static final String SIMULATOR_TARGET = "simulator";
+
+    private static List<Integer> fleet;
+    private static StationSimulator simulator;
+    private static ThroughputRunner runner;
+    private static BenchmarkReport report;
+
+    @BeforeAll
+    public static void startTarget() throws IOException {
+        fleet = availableStationIds();
+        String baseUri = CONFIG.getBaseUri();
+        if (SIMULATOR_TARGET.equals(CONFIG.getBenchmarkTarget())) {
+            simulator = StationSimulator.start(Set.copyOf(fleet));
+            baseUri = simulator.getBaseUri();
+        }
+        runner = new ThroughputRunner(baseUri,
+                Duration.ofMillis(CONFIG.getBenchmarkWarmupMillis()),
+                Duration.ofMillis(CONFIG.getBenchmarkMeasurementMillis()));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUri", SIMULATOR_TARGET.equals(CONFIG.getBenchmarkTarget()) ? SIMULATOR_TARGET : baseUri);
+        settings.put("fleetSize", fleet.size());
+        settings.put("maxConcurrency", CONFIG.getBenchmarkMaxConcurrency());
+        settings.put("warmupMillis", CONFIG.getBenchmarkWarmupMillis());
+        settings.put("measurementMillis", CONFIG.getBenchmarkMeasurementMillis());
+        if (simulator != null) {
+            settings.put("simulatorWorkers", CONFIG.getSimulatorWorkers());
+            settings.put("simulatorServiceTimeMillis", CONFIG.getSimulatorServiceTimeMillis());
+        }
+        report = new BenchmarkReport(CONFIG.getBenchmarkVersion(), CONFIG.getBenchmarkTarget(), settings);
+
+        // loads and compiles the client's request path once, so the first measured point isn't spent on it
+        for (CommandType command : CommandType.values()) {
+            runner.measure(command, fleet, 1);
+        }
+    }
+
+    @AfterAll
+    public static void writeReport() throws IOException {
+        try {
+            report.write(Paths.get(CONFIG.getBenchmarkOutputDirectory()));
+        } finally {
+            if (simulator != null) {
+                simulator.close();
+            }
+        }
+    }
+
+    @Feature("BENCHMARK")
+    @DisplayName("Should Measure Throughput Versus Latency Across Concurrency And Station Count.")
+    @Description("1. For every station count from 1 to the size of the fleet, and every concurrency from 1 to the configured maximum, send the command from closed-loop workers for the measurement window.\n 2. Record every point, including its errors, and attach the curves, each with its knee marked; all points are written to the benchmark output directory when the sweep completes.\n 3. Expect at least some requests of the sweep to succeed.")
+    @Severity(SeverityLevel.MINOR)
+    @Tag("benchmark")
+    @ParameterizedTest(name = "Command: {argumentsWithNames}")
+    @EnumSource(CommandType.class)
+    public void shouldMeasureThroughputVersusLatency(CommandType command) {
+        // errors and timeouts past the knee are part of the curve, so every point is recorded before anything is asserted
+        long succeeded = 0;
+        for (int stations : doublingUpTo(fleet.size())) {
+            for (int concurrency : doublingUpTo(CONFIG.getBenchmarkMaxConcurrency())) {
+                BenchmarkPoint point = runner.measure(command, fleet.subList(0, stations), concurrency);
+                report.add(point);
+                succeeded += point.requests();
+            }
+        }
+        Allure.addAttachment(command.value() + " throughput vs latency", "text/csv", report.toCsv(command), ".csv");
+
+        assertThat(succeeded, greaterThan(0L));
+    }
+
+    // 1, 2, 4, ... and the maximum itself, so that both ends of the range are always measured
+    private static List<Integer> doublingUpTo(int max) {
+        List<Integer> levels = new ArrayList<>();
+        for (int level = 1; level < max; level *= 2) {
+            levels.add(level);
+        }
+        levels.add(max);
+        return levels;
+    }
+
+    private static List<Integer> availableStationIds() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                StationThroughputBenchmark.class.getResourceAsStream("/available_stations.csv"), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .skip(1)
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty())
+                    .map(Integer::valueOf)
+                    .toList();
+        }
+    }
+
+}
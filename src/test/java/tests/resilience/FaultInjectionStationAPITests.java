@@ -0,0 +1,194 @@
+package tests.resilience;
+
+import static configs.OwnerConfig.CONFIG;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.blankOrNullString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import clients.StationAPIClient;
+import faults.FaultInjectingProxy;
+import faults.FaultProfile;
+import faults.LatencyDistribution;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+import models.SetResult;
+import models.StationGetIntervalResponse;
+import models.StationGetVersionResponse;
+import models.StationSetValuesResponse;
+import models.StationTestRequest;
+
+public class FaultInjectionStationAPITests {
+
+    // the timeout test uses its own client with a short read timeout, so it doesn't wait out the configured one
+    private static final Duration SHORT_READ_TIMEOUT = Duration.ofMillis(500);
+    private static final int TIMEOUT_TEST_STATION_ID = 1;
+
+    private static FaultInjectingProxy proxy;
+    private static StationAPIClient client;
+    private static StationAPIClient shortTimeoutClient;
+
+    @BeforeAll
+    public static void startProxy() throws IOException {
+        proxy = FaultInjectingProxy.start();
+        client = new StationAPIClient(proxy.getBaseUri());
+        shortTimeoutClient = new StationAPIClient(proxy.getBaseUri(), SHORT_READ_TIMEOUT);
+    }
+
+    @AfterEach
+    public void clearFaults() {
+        proxy.clearFaults();
+    }
+
+    @AfterAll
+    public static void stopProxy() {
+        proxy.close();
+    }
+
+    @Feature("GET_VERSION")
+    @DisplayName("Should Get Valid Version When Latency Stays Below Read Timeout.")
+    @Description("1. Configure proxy to delay requests to the station by 100-500 ms.\n 2. Send POST request with 'getVersion' command to an existing station id.\n 3. Expect 200 response of StationGetVersionResponse type that contains non-blank version string.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldGetValidVersionUnderLatency(int stationId) {
+        proxy.withStationFaults(stationId, new FaultProfile()
+                .withLatency(LatencyDistribution.uniform(Duration.ofMillis(100), Duration.ofMillis(500))));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_VERSION);
+        StationGetVersionResponse response = client.getStationVersionAndValidateResponse(stationId, request);
+
+        assertThat(response.result(), is(not(blankOrNullString())));
+    }
+
+    @Feature("GET_VERSION")
+    @DisplayName("Should Time Out When Latency Exceeds Read Timeout.")
+    @Description("1. Configure proxy to delay requests to the station by twice the read timeout of a client with a short read timeout.\n 2. Send POST request with 'getVersion' command to an existing station id, using that client.\n 3. Expect the client to give up with a socket timeout.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @Test
+    public void shouldTimeOutWhenLatencyExceedsReadTimeout() {
+        proxy.withStationFaults(TIMEOUT_TEST_STATION_ID, new FaultProfile()
+                .withLatency(LatencyDistribution.fixed(SHORT_READ_TIMEOUT.multipliedBy(2))));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_VERSION);
+
+        assertThrows(SocketTimeoutException.class,
+                () -> shortTimeoutClient.getStationVersionAndValidateResponse(TIMEOUT_TEST_STATION_ID, request));
+    }
+
+    @Feature("GET_INTERVAL")
+    @DisplayName("Should Fail Fast When Connection Is Dropped.")
+    @Description("1. Configure proxy to drop every 'getInterval' request.\n 2. Send POST request with 'getInterval' command to an existing station id.\n 3. Expect the client to fail with an I/O error instead of hanging.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldFailWhenConnectionIsDropped(int stationId) {
+        proxy.withCommandFaults(CommandType.GET_INTERVAL, new FaultProfile()
+                .withDroppedConnections(1.0));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_INTERVAL);
+
+        assertThrows(IOException.class, () -> client.getStationIntervalAndValidateResponse(stationId, request));
+    }
+
+    @Feature("GET_VERSION")
+    @DisplayName("Should Fail When Response Body Is Truncated.")
+    @Description("1. Configure proxy to cut every 'getVersion' response body in half.\n 2. Send POST request with 'getVersion' command to an existing station id.\n 3. Expect the client to fail with an I/O error instead of returning a partial result, well before the read timeout.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldFailWhenResponseBodyIsTruncated(int stationId) {
+        proxy.withCommandFaults(CommandType.GET_VERSION, new FaultProfile()
+                .withTruncatedBodies(1.0, 0.5));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_VERSION);
+
+        long start = System.nanoTime();
+        assertThrows(IOException.class, () -> client.getStationVersionAndValidateResponse(stationId, request));
+
+        // a connection left open would only fail once the read timeout is reached
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), lessThan(CONFIG.getReadTimeoutMillis() / 2L));
+    }
+
+    @Feature("GET_INTERVAL")
+    @DisplayName("Should Get Valid Interval Over A Slow Connection.")
+    @Description("1. Configure proxy to drip the response a few bytes at a time, paced by a bandwidth limit that requires longer pauses than the drip interval.\n 2. Send POST request with 'getInterval' command to an existing station id.\n 3. Expect 200 response of StationGetIntervalResponse type that contains interval of type integer.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldGetValidIntervalOverSlowConnection(int stationId) {
+        proxy.withStationFaults(stationId, new FaultProfile()
+                .withBandwidthLimit(64)
+                .withSlowDrip(4, Duration.ofMillis(20)));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_INTERVAL);
+        StationGetIntervalResponse response = client.getStationIntervalAndValidateResponse(stationId, request);
+
+        assertThat(response.result(), isA(Integer.class));
+    }
+
+    @Feature("GET_VERSION")
+    @DisplayName("Should Get Valid Version Within Bandwidth Limit.")
+    @Description("1. Configure proxy to limit bandwidth to the station to 40 bytes per second.\n 2. Send POST request with 'getVersion' command to an existing station id.\n 3. Expect 200 response of StationGetVersionResponse type that contains non-blank version string, taking at least as long as the limit requires.")
+    @Severity(SeverityLevel.MINOR)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldGetValidVersionWithinBandwidthLimit(int stationId) {
+        proxy.withStationFaults(stationId, new FaultProfile()
+                .withBandwidthLimit(40));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_VERSION);
+        long start = System.nanoTime();
+        StationGetVersionResponse response = client.getStationVersionAndValidateResponse(stationId, request);
+
+        assertThat(response.result(), is(not(blankOrNullString())));
+        // the body is at least {"result":"x"}, 14 bytes sent in 2 byte slices with 50 ms pauses in between
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThanOrEqualTo(300L));
+    }
+
+    @Feature("SET_VALUES")
+    @DisplayName("Should Only Degrade Exchanges Of The Configured Command.")
+    @Description("1. Configure proxy to drop every 'getVersion' request.\n 2. Send POST request with 'setValues' command and positive integer in payload to an existing station id.\n 3. Expect 200 response of StationSetValuesResponse type that contains result: OK.")
+    @Severity(SeverityLevel.MINOR)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldNotDegradeOtherCommands(int stationId) {
+        proxy.withCommandFaults(CommandType.GET_VERSION, new FaultProfile()
+                .withDroppedConnections(1.0));
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.SET_VALUES)
+                .withPayload(1);
+        StationSetValuesResponse response = client.setStationValuesAndValidateResponse(stationId, request);
+
+        assertThat(response.result(), equalTo(SetResult.OK));
+    }
+
+}
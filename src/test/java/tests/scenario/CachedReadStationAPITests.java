@@ -0,0 +1,70 @@
+package tests.scenario;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import clients.StationAPIClient;
+import clients.StationReadCache.CacheStats;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import models.CommandType;
+import models.StationGetIntervalResponse;
+import models.StationGetVersionResponse;
+import models.StationTestRequest;
+
+public class CachedReadStationAPITests {
+
+    private final StationAPIClient client = new StationAPIClient()
+            .withReadCache(Duration.ofMinutes(1), 100);
+
+    @Feature("GET_VERSION")
+    @DisplayName("Should Serve Repeated Version Requests From Cache.")
+    @Description("1. Send POST request with 'getVersion' command to an existing station id twice, using a client with read cache.\n 2. Expect both responses to be equal and only the first one to reach the server.")
+    @Severity(SeverityLevel.MINOR)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldServeRepeatedVersionRequestsFromCache(int stationId) {
+        StationTestRequest request = new StationTestRequest()
+                .withCommand(CommandType.GET_VERSION);
+        StationGetVersionResponse first = client.getStationVersionAndValidateResponse(stationId, request);
+        StationGetVersionResponse second = client.getStationVersionAndValidateResponse(stationId, request);
+
+        assertThat(second, equalTo(first));
+        assertThat(client.readCacheStats(), equalTo(new CacheStats(1, 1, 0, 1)));
+    }
+
+    @Feature("SET_VALUES")
+    @Feature("GET_INTERVAL")
+    @DisplayName("Should Get Newly Set Interval Even When Previous Interval Was Cached.")
+    @Description("1. Send POST request with 'getInterval' command to an existing station id, using a client with read cache.\n 2. Send POST request with 'setValues' command and a different positive integer in payload to the same station id.\n 3. Send POST request with 'getInterval' command to the same station id.\n 4. Expect the interval set in Step 2, fetched from the server rather than from cache.")
+    @Severity(SeverityLevel.NORMAL)
+    @Tag("auto")
+    @ParameterizedTest(name = "Station ID: {argumentsWithNames}")
+    @CsvFileSource(resources = "/available_stations.csv", numLinesToSkip = 1)
+    public void shouldInvalidateCachedIntervalAfterSettingIt(int stationId) {
+        StationTestRequest getIntervalRequest = new StationTestRequest()
+                .withCommand(CommandType.GET_INTERVAL);
+        StationGetIntervalResponse cachedInterval = client.getStationIntervalAndValidateResponse(stationId, getIntervalRequest);
+
+        StationTestRequest setIntervalRequest = new StationTestRequest()
+                .withCommand(CommandType.SET_VALUES)
+                .withPayload(cachedInterval.result() == 2 ? 3 : 2);
+        client.setStationValuesAndValidateResponse(stationId, setIntervalRequest);
+        StationGetIntervalResponse getIntervalResponse = client.getStationIntervalAndValidateResponse(stationId, getIntervalRequest);
+
+        assertThat(getIntervalResponse.result(), equalTo(setIntervalRequest.payload()));
+        assertThat(client.readCacheStats().hits(), is(0L));
+    }
+
+}